@@ -0,0 +1,80 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IFilter;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeFitting;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+
+/**
+ * Benchmark a message written through a chain of Filters.
+ * <P>
+ * Topology: Pipe -&gt; Filter x <code>depth</code> -&gt; Pipe -&gt; PipeListener.
+ * Each filter casts its header and params the way the filters in
+ * <code>FilterTest</code> do, and passes the message on.</P>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+	@Param({ "1", "4", "16" })
+	public int depth;
+
+	private IPipeFitting input;
+
+	private MessageCounter counter;
+
+	private IPipeMessage message;
+
+	private static class PassFilter implements IFilter {
+
+		public IPipeMessage apply(IPipeMessage message, Object params) {
+			Integer header = (Integer) message.getHeader();
+			if (header.intValue() > (Integer) params)
+				throw new Error("filtered");
+			return message;
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		counter = new MessageCounter();
+		message = new Message(Message.NORMAL, 1);
+
+		IPipeFitting output = new Pipe();
+		output.connect(new PipeListener(counter));
+
+		// build the chain from the output backwards
+		IPipeFitting next = output;
+		for (int i = depth - 1; i >= 0; i--) {
+			next = new Filter("filter" + i, next, new PassFilter(), Integer.MAX_VALUE);
+		}
+		input = new Pipe(next);
+	}
+
+	@Benchmark
+	public boolean filterChain() {
+		return input.write(message);
+	}
+}
@@ -0,0 +1,105 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IFilter;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+
+/**
+ * Benchmark the cost of a Filter dropping a message.
+ * <P>
+ * Compares a filter function that throws a new <code>Error</code> for
+ * every dropped message, as in <code>FilterTest.testUseFilterToStopAMessage</code>,
+ * with one that throws a single preallocated error without a stack trace,
+ * and with a message that passes. Run with <code>-prof gc</code> and
+ * compare <code>gc.alloc.rate.norm</code> for the bytes allocated per
+ * dropped message.</P>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterDropBenchmark {
+
+	private Filter throwingFilter;
+
+	private Filter stacklessFilter;
+
+	private MessageCounter counter;
+
+	private IPipeMessage badMessage;
+
+	private IPipeMessage goodMessage;
+
+	private static class ThrowingFilter implements IFilter {
+
+		public IPipeMessage apply(IPipeMessage message, Object params) {
+			if ((Integer) message.getHeader() > (Integer) params)
+				throw new Error("filtered");
+			return message;
+		}
+	}
+
+	private static class DropMessageError extends Error {
+
+		private static final long serialVersionUID = 1L;
+
+		public DropMessageError() {
+			super("filtered", null, false, false);
+		}
+	}
+
+	private static class StacklessFilter implements IFilter {
+
+		private static final Error FILTERED = new DropMessageError();
+
+		public IPipeMessage apply(IPipeMessage message, Object params) {
+			if ((Integer) message.getHeader() > (Integer) params)
+				throw FILTERED;
+			return message;
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		counter = new MessageCounter();
+		badMessage = new Message(Message.NORMAL, 10);
+		goodMessage = new Message(Message.NORMAL, 3);
+
+		throwingFilter = new Filter("throwing", new PipeListener(counter), new ThrowingFilter(), 5);
+		stacklessFilter = new Filter("stackless", new PipeListener(counter), new StacklessFilter(), 5);
+	}
+
+	@Benchmark
+	public boolean dropWithNewError() {
+		return throwingFilter.write(badMessage);
+	}
+
+	@Benchmark
+	public boolean dropWithStacklessError() {
+		return stacklessFilter.write(badMessage);
+	}
+
+	@Benchmark
+	public boolean pass() {
+		return throwingFilter.write(goodMessage);
+	}
+}
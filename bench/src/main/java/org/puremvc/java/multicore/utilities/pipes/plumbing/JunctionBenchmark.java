@@ -0,0 +1,72 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeFitting;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+
+/**
+ * Benchmark Junction.sendMessage on a registered OUTPUT pipe.
+ * <P>
+ * Same topology as <code>JunctionTest.testSendMessageOnAnOutputPipe</code>:
+ * Junction -&gt; Pipe -&gt; PipeListener. Compared with writing to the
+ * pipe retrieved from the Junction once, which skips the lookup by name
+ * and the direction check on every message. A retrieved pipe is not
+ * invalidated by <code>removePipe</code>, so a caller holding one must
+ * drop it when the pipe is removed.</P>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JunctionBenchmark {
+
+	private Junction junction;
+
+	private IPipeFitting retrieved;
+
+	private MessageCounter counter;
+
+	private IPipeMessage message;
+
+	@Setup
+	public void setUp() {
+		counter = new MessageCounter();
+		message = new Message(Message.NORMAL, 1);
+
+		IPipeFitting pipe = new Pipe();
+		pipe.connect(new PipeListener(counter));
+
+		junction = new Junction();
+		junction.registerPipe("testOutputPipe", Junction.OUTPUT, pipe);
+		retrieved = junction.retrievePipe("testOutputPipe");
+	}
+
+	@Benchmark
+	public boolean sendMessage() {
+		return junction.sendMessage("testOutputPipe", message);
+	}
+
+	@Benchmark
+	public boolean retrievedPipeWrite() {
+		return retrieved.write(message);
+	}
+}
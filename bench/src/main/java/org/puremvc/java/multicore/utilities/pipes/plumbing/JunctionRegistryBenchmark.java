@@ -0,0 +1,105 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeFitting;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeListener;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+
+/**
+ * Benchmark Junction.sendMessage against a large pipe registry.
+ * <P>
+ * Registers <code>PIPES</code> OUTPUT pipes with one Junction, then sends
+ * on them by name from 1 and 16 threads. The registry is not changed
+ * while sending, since Junction is not safe for registration alongside
+ * sends. Names are built once in setup, so the lookup itself is measured
+ * rather than building the name. Every pipe ends in a listener that
+ * does nothing, so senders sharing a pipe do not contend on listener
+ * state.</P>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JunctionRegistryBenchmark {
+
+	private static final int PIPES = 10000;
+
+	private static class IgnoringListener implements IPipeListener {
+
+		public void handlePipeMessage(IPipeMessage message) {
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Registry {
+
+		public Junction junction;
+
+		public String[] names;
+
+		@Setup
+		public void setUp() {
+			junction = new Junction();
+			names = new String[PIPES];
+			IPipeListener ignoring = new IgnoringListener();
+			for (int i = 0; i < PIPES; i++) {
+				IPipeFitting pipe = new Pipe();
+				pipe.connect(new PipeListener(ignoring));
+				names[i] = "outputPipe" + i;
+				junction.registerPipe(names[i], Junction.OUTPUT, pipe);
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Sender {
+
+		public IPipeMessage message;
+
+		public int next;
+
+		@Setup
+		public void setUp() {
+			message = new Message(Message.NORMAL, 1);
+			next = (int) (Thread.currentThread().getId() * 7919 % PIPES);
+		}
+	}
+
+	private static boolean send(Registry registry, Sender sender) {
+		String name = registry.names[sender.next];
+		if (++sender.next == PIPES)
+			sender.next = 0;
+		return registry.junction.sendMessage(name, sender.message);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public boolean sendMessage01(Registry registry, Sender sender) {
+		return send(registry, sender);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public boolean sendMessage16(Registry registry, Sender sender) {
+		return send(registry, sender);
+	}
+}
@@ -0,0 +1,75 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IFilter;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeFitting;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+
+/**
+ * Benchmark message allocation through a Pipe -&gt; Filter -&gt; PipeListener chain.
+ * <P>
+ * Compares sending a new <code>Message</code> per send with sending
+ * one message instance over and over. Run with <code>-prof gc</code> and
+ * compare <code>gc.alloc.rate.norm</code>: the chain itself should add
+ * no allocation, so the difference is the cost of the message.</P>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageAllocationBenchmark {
+
+	private IPipeFitting input;
+
+	private MessageCounter counter;
+
+	private IPipeMessage message;
+
+	private Object header;
+
+	private static class PassFilter implements IFilter {
+
+		public IPipeMessage apply(IPipeMessage message, Object params) {
+			return message;
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		counter = new MessageCounter();
+		header = new Object();
+		message = new Message(Message.NORMAL, header);
+
+		Filter filter = new Filter("pass", new PipeListener(counter), new PassFilter(), null);
+		input = new Pipe(filter);
+	}
+
+	@Benchmark
+	public boolean newMessagePerSend() {
+		return input.write(new Message(Message.NORMAL, header));
+	}
+
+	@Benchmark
+	public boolean reusedMessage() {
+		return input.write(message);
+	}
+}
@@ -0,0 +1,37 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeListener;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+
+/**
+ * Terminal listener used by the benchmarks.
+ * <P>
+ * Counts the messages delivered through a <code>PipeListener</code> and
+ * keeps the last one, so the JIT can not eliminate the pipe chain
+ * under measurement.</P>
+ */
+public class MessageCounter implements IPipeListener {
+
+	/**
+	 * Number of messages received.
+	 */
+	public long count;
+
+	/**
+	 * Last message received.
+	 */
+	public IPipeMessage last;
+
+	/**
+	 * Callback given to <code>PipeListener</code> for incoming message.
+	 */
+	public void handlePipeMessage(IPipeMessage message) {
+		count++;
+		last = message;
+	}
+}
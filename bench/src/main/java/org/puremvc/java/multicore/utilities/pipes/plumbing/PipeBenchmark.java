@@ -0,0 +1,57 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeFitting;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+
+/**
+ * Benchmark a message written through two connected Pipes.
+ * <P>
+ * Same topology as <code>PipeTest</code>: Pipe -&gt; Pipe -&gt; PipeListener.</P>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipeBenchmark {
+
+	private IPipeFitting pipe1;
+
+	private MessageCounter counter;
+
+	private IPipeMessage message;
+
+	@Setup
+	public void setUp() {
+		counter = new MessageCounter();
+		message = new Message(Message.NORMAL, 1);
+
+		IPipeFitting pipe2 = new Pipe();
+		pipe2.connect(new PipeListener(counter));
+		pipe1 = new Pipe(pipe2);
+	}
+
+	@Benchmark
+	public boolean pipeToPipe() {
+		return pipe1.write(message);
+	}
+}
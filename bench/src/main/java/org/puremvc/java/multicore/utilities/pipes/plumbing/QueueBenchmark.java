@@ -0,0 +1,77 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+import org.puremvc.java.multicore.utilities.pipes.messages.QueueControlMessage;
+
+/**
+ * Benchmark writing a backlog of messages to a Queue followed by a FLUSH.
+ * <P>
+ * Same topology as <code>QueueTest</code>: Queue -&gt; PipeListener.
+ * One operation writes <code>backlog</code> messages of mixed priority,
+ * then the FLUSH message that releases them. This is an end-to-end
+ * number: it does not separate the cost of storing from the cost of
+ * flushing, see <code>QueuePhaseBenchmark</code> for that.</P>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+	@Param({ "1", "64", "1024" })
+	public int backlog;
+
+	@Param({ "FIFO", "SORT" })
+	public String mode;
+
+	private Queue queue;
+
+	private MessageCounter counter;
+
+	private IPipeMessage[] messages;
+
+	private IPipeMessage flush;
+
+	@Setup
+	public void setUp() {
+		counter = new MessageCounter();
+		queue = new Queue(new PipeListener(counter));
+		flush = new QueueControlMessage(QueueControlMessage.FLUSH);
+		queue.write(new QueueControlMessage("SORT".equals(mode) ? QueueControlMessage.SORT : QueueControlMessage.FIFO));
+
+		int[] priorities = { Message.PRIORITY_LOW, Message.PRIORITY_MED, Message.PRIORITY_HIGH };
+		messages = new IPipeMessage[backlog];
+		for (int i = 0; i < backlog; i++) {
+			messages[i] = new Message(Message.NORMAL, i, null, priorities[i % priorities.length]);
+		}
+	}
+
+	@Benchmark
+	public boolean writeAndFlush() {
+		for (int i = 0; i < messages.length; i++) {
+			queue.write(messages[i]);
+		}
+		return queue.write(flush);
+	}
+}
@@ -0,0 +1,109 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+import org.puremvc.java.multicore.utilities.pipes.messages.QueueControlMessage;
+
+/**
+ * Benchmark concurrent writers sharing one Queue.
+ * <P>
+ * Queue is not thread safe, so every writer synchronizes on the queue,
+ * the way modules feeding a shared Queue have to today. The queue is
+ * flushed after every <code>FLUSH_INTERVAL</code> writes in total, by
+ * whichever writer makes the last one, so every thread count flushes the
+ * same backlog. This is the baseline for a thread-safe Queue at 1, 4, 16
+ * and 64 writer threads.</P>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueContentionBenchmark {
+
+	private static final int FLUSH_INTERVAL = 256;
+
+	@State(Scope.Benchmark)
+	public static class SharedQueue {
+
+		public Queue queue;
+
+		public MessageCounter counter;
+
+		public IPipeMessage flush;
+
+		// guarded by the queue's lock
+		public int written;
+
+		@Setup
+		public void setUp() {
+			counter = new MessageCounter();
+			queue = new Queue(new PipeListener(counter));
+			flush = new QueueControlMessage(QueueControlMessage.FLUSH);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Writer {
+
+		public IPipeMessage message;
+
+		@Setup
+		public void setUp() {
+			message = new Message(Message.NORMAL, 1);
+		}
+	}
+
+	private static boolean write(SharedQueue shared, Writer writer) {
+		synchronized (shared.queue) {
+			boolean written = shared.queue.write(writer.message);
+			if (++shared.written == FLUSH_INTERVAL) {
+				shared.written = 0;
+				shared.queue.write(shared.flush);
+			}
+			return written;
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public boolean synchronizedWriters01(SharedQueue shared, Writer writer) {
+		return write(shared, writer);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public boolean synchronizedWriters04(SharedQueue shared, Writer writer) {
+		return write(shared, writer);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public boolean synchronizedWriters16(SharedQueue shared, Writer writer) {
+		return write(shared, writer);
+	}
+
+	@Benchmark
+	@Threads(64)
+	public boolean synchronizedWriters64(SharedQueue shared, Writer writer) {
+		return write(shared, writer);
+	}
+}
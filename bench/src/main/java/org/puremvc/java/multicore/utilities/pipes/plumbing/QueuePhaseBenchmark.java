@@ -0,0 +1,113 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+import org.puremvc.java.multicore.utilities.pipes.messages.QueueControlMessage;
+
+/**
+ * Benchmark storing a backlog in a Queue and flushing it, separately.
+ * <P>
+ * <code>store</code> times writing <code>backlog</code> messages of mixed
+ * priority to the Queue; the backlog is flushed outside the measurement.
+ * <code>flush</code> times the FLUSH message alone, over a backlog stored
+ * outside the measurement. Both use invocation-level fixtures, which is
+ * why the backlogs start at 1024.</P>
+ * <P>
+ * If SORT mode re-sorts the stored messages on each store rather than
+ * once at FLUSH, storing a backlog of n messages costs O(n^2) in SORT
+ * mode. The largest backlog is capped at 8192 to keep that bounded.</P>
+ */
+@BenchmarkMode({ Mode.AverageTime, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueuePhaseBenchmark {
+
+	@State(Scope.Thread)
+	public abstract static class Backlog {
+
+		@Param({ "1024", "8192" })
+		public int backlog;
+
+		@Param({ "FIFO", "SORT" })
+		public String mode;
+
+		public Queue queue;
+
+		public MessageCounter counter;
+
+		public IPipeMessage[] messages;
+
+		public IPipeMessage flush;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			counter = new MessageCounter();
+			queue = new Queue(new PipeListener(counter));
+			flush = new QueueControlMessage(QueueControlMessage.FLUSH);
+			queue.write(new QueueControlMessage("SORT".equals(mode) ? QueueControlMessage.SORT : QueueControlMessage.FIFO));
+
+			int[] priorities = { Message.PRIORITY_LOW, Message.PRIORITY_MED, Message.PRIORITY_HIGH };
+			messages = new IPipeMessage[backlog];
+			for (int i = 0; i < backlog; i++) {
+				messages[i] = new Message(Message.NORMAL, i, null, priorities[i % priorities.length]);
+			}
+		}
+
+		public void store() {
+			for (int i = 0; i < messages.length; i++) {
+				queue.write(messages[i]);
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class StoreBacklog extends Backlog {
+
+		@TearDown(Level.Invocation)
+		public void flushStored() {
+			queue.write(flush);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class FlushBacklog extends Backlog {
+
+		@Setup(Level.Invocation)
+		public void fill() {
+			store();
+		}
+	}
+
+	@Benchmark
+	public long store(StoreBacklog state) {
+		state.store();
+		return state.counter.count;
+	}
+
+	@Benchmark
+	public boolean flush(FlushBacklog state) {
+		return state.queue.write(state.flush);
+	}
+}
@@ -0,0 +1,76 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeFitting;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+
+/**
+ * Benchmark messages written to the inputs of a TeeMerge.
+ * <P>
+ * Same topology as <code>TeeMergeTest</code>: Pipe x <code>inputs</code>
+ * -&gt; TeeMerge -&gt; PipeListener. Each operation writes one message
+ * to the next input, round robin.</P>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeeMergeBenchmark {
+
+	@Param({ "2", "4", "16" })
+	public int inputs;
+
+	private IPipeFitting[] pipes;
+
+	private int next;
+
+	private MessageCounter counter;
+
+	private IPipeMessage message;
+
+	@Setup
+	public void setUp() {
+		counter = new MessageCounter();
+		message = new Message(Message.NORMAL, 1);
+
+		pipes = new IPipeFitting[inputs];
+		for (int i = 0; i < inputs; i++) {
+			pipes[i] = new Pipe();
+		}
+
+		// create merging tee (args are first two input fittings of tee)
+		TeeMerge teeMerge = new TeeMerge(pipes[0], pipes[1]);
+		for (int i = 2; i < inputs; i++) {
+			teeMerge.connectInput(pipes[i]);
+		}
+		teeMerge.connect(new PipeListener(counter));
+	}
+
+	@Benchmark
+	public boolean teeMerge() {
+		IPipeFitting pipe = pipes[next];
+		if (++next == pipes.length)
+			next = 0;
+		return pipe.write(message);
+	}
+}
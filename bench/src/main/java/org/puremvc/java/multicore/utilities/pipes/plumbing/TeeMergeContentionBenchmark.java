@@ -0,0 +1,109 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeFitting;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+
+/**
+ * Benchmark concurrent writers feeding the inputs of one TeeMerge.
+ * <P>
+ * Each writer thread owns one input pipe of a shared TeeMerge. The
+ * merged output is not safe for concurrent writes, so every write
+ * synchronizes on the tee, the way modules feeding a shared TeeMerge
+ * have to today. This is the baseline for a concurrent merge mode.</P>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeeMergeContentionBenchmark {
+
+	private static final int MAX_INPUTS = 16;
+
+	@State(Scope.Benchmark)
+	public static class SharedMerge {
+
+		public TeeMerge teeMerge;
+
+		public IPipeFitting[] pipes;
+
+		public MessageCounter counter;
+
+		public final AtomicInteger nextInput = new AtomicInteger();
+
+		@Setup
+		public void setUp() {
+			counter = new MessageCounter();
+
+			pipes = new IPipeFitting[MAX_INPUTS];
+			for (int i = 0; i < MAX_INPUTS; i++) {
+				pipes[i] = new Pipe();
+			}
+
+			// create merging tee (args are first two input fittings of tee)
+			teeMerge = new TeeMerge(pipes[0], pipes[1]);
+			for (int i = 2; i < MAX_INPUTS; i++) {
+				teeMerge.connectInput(pipes[i]);
+			}
+			teeMerge.connect(new PipeListener(counter));
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Writer {
+
+		public IPipeFitting input;
+
+		public IPipeMessage message;
+
+		@Setup
+		public void setUp(SharedMerge shared) {
+			input = shared.pipes[shared.nextInput.getAndIncrement() % MAX_INPUTS];
+			message = new Message(Message.NORMAL, 1);
+		}
+	}
+
+	private static boolean write(SharedMerge shared, Writer writer) {
+		synchronized (shared.teeMerge) {
+			return writer.input.write(writer.message);
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public boolean synchronizedInputs01(SharedMerge shared, Writer writer) {
+		return write(shared, writer);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public boolean synchronizedInputs04(SharedMerge shared, Writer writer) {
+		return write(shared, writer);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public boolean synchronizedInputs16(SharedMerge shared, Writer writer) {
+		return write(shared, writer);
+	}
+}
@@ -0,0 +1,70 @@
+/* 
+ PureMVC Java MultiCore Pipes Utility Benchmarks
+ PureMVC - Copyright(c) 2006-08 Futurescale, Inc., Some rights reserved. 
+ Your reuse is governed by the Creative Commons Attribution 3.0 License 
+ */
+package org.puremvc.java.multicore.utilities.pipes.plumbing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeFitting;
+import org.puremvc.java.multicore.utilities.pipes.interfaces.IPipeMessage;
+import org.puremvc.java.multicore.utilities.pipes.messages.Message;
+
+/**
+ * Benchmark a message written to a TeeSplit with several outputs.
+ * <P>
+ * Same topology as <code>TeeSplitTest</code>: TeeSplit -&gt; Pipe x
+ * <code>outputs</code> -&gt; PipeListener.</P>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeeSplitBenchmark {
+
+	@Param({ "2", "4", "16" })
+	public int outputs;
+
+	private TeeSplit teeSplit;
+
+	private MessageCounter counter;
+
+	private IPipeMessage message;
+
+	@Setup
+	public void setUp() {
+		counter = new MessageCounter();
+		message = new Message(Message.NORMAL, 1);
+
+		IPipeFitting[] pipes = new IPipeFitting[outputs];
+		for (int i = 0; i < outputs; i++) {
+			pipes[i] = new Pipe();
+			pipes[i].connect(new PipeListener(counter));
+		}
+
+		// create splitting tee (args are first two output fittings of tee)
+		teeSplit = new TeeSplit(pipes[0], pipes[1]);
+		for (int i = 2; i < outputs; i++) {
+			teeSplit.connect(pipes[i]);
+		}
+	}
+
+	@Benchmark
+	public boolean teeSplit() {
+		return teeSplit.write(message);
+	}
+}
@@ -343,5 +343,61 @@ public class FilterTest implements IPipeListener{
 
 	}
 
+	private static class DropMessageError extends Error {
+
+		private static final long serialVersionUID = 1L;
+
+		public DropMessageError() {
+			super("bozoFiltered", null, false, false);
+		}
+	}
+
+	private class StacklessBozoPipeFilterTest implements IFilter {
+
+		private final Error bozoFiltered = new DropMessageError();
+
+		public IPipeMessage apply(IPipeMessage message, Object params) {
+			BozoUser user = (BozoUser) message.getHeader();
+			if (user.bozoLevel > (Integer) params)
+				throw bozoFiltered;
+			return message;
+		}
+	}
+
+	/**
+	 * Test using a shared, stackless error to stop propagation of a message. 
+	 * <P>
+	 * Same as <code>testUseFilterToStopAMessage</code>, but the filter 
+	 * function throws the same error instance, created without a stack 
+	 * trace, for every dropped message. Two bad messages are written to 
+	 * show the one instance can be rethrown and still stops each of them.</P>
+	 */
+	@Test
+	public void testUseStacklessErrorToStopMessages() {
+		// create messages to send to the queue
+		IPipeMessage message1 = new Message(Message.NORMAL, new BozoUser(10, "Dastardly Dan"));
+		IPipeMessage message2 = new Message(Message.NORMAL, new BozoUser(3, "Dudley Doright"));
+		IPipeMessage message3 = new Message(Message.NORMAL, new BozoUser(8, "Snidely Whiplash"));
+
+		// create filter, attach an anonymous listener to the filter output to receive the message,
+		// pass in an anonymous function and an anonymous parameter object
+		Filter filter = new Filter("bozoFilter", new PipeListener(this), new StacklessBozoPipeFilterTest(), 5);
+
+		// write normal messages to the filter
+		boolean written1 = filter.write(message1);
+		boolean written2 = filter.write(message2);
+		boolean written3 = filter.write(message3);
+
+		// test assertions
+		Assert.assertFalse("Expecting failed to write bad message1", written1);
+		Assert.assertTrue("Expecting wrote good message2", written2);
+		Assert.assertFalse("Expecting failed to write bad message3", written3);
+		Assert.assertEquals("Expecting received 1 messages", messagesReceived.size(), 1);
+
+		// test filtered message assertions (only the good message passed)
+		IPipeMessage recieved = messagesReceived.firstElement();
+		Assert.assertEquals("Expecting recieved === message2", recieved, message2); // object equality
+	}
+
 
 }
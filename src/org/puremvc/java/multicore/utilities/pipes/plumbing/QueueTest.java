@@ -247,4 +247,57 @@ public class QueueTest implements IPipeListener{
 		Assert.assertEquals("Expecting recieved3Again is priority high ", recieved3Again.getPriority(), Message.PRIORITY_HIGH);
 
 	}
+
+	/**
+	 * Test that Sort-by-Priority mode keeps FIFO order within a priority.
+	 * <P>
+	 * Creates two messages of each priority, interleaved. Sends SORT
+	 * message, writes the messages and sends FLUSH. Tests that the messages
+	 * were received highest priority first, and that messages of the same
+	 * priority were received in the order they were sent.
+	 * </P>
+	 */
+	@Test
+	public void testSortByPriorityKeepsFIFOWithinPriority() {
+		// create messages to send to the queue, priorities interleaved
+		IPipeMessage low1 = new Message(Message.NORMAL, null, null, Message.PRIORITY_LOW);
+		IPipeMessage high1 = new Message(Message.NORMAL, null, null, Message.PRIORITY_HIGH);
+		IPipeMessage med1 = new Message(Message.NORMAL, null, null, Message.PRIORITY_MED);
+		IPipeMessage low2 = new Message(Message.NORMAL, null, null, Message.PRIORITY_LOW);
+		IPipeMessage med2 = new Message(Message.NORMAL, null, null, Message.PRIORITY_MED);
+		IPipeMessage high2 = new Message(Message.NORMAL, null, null, Message.PRIORITY_HIGH);
+
+		// create queue, attaching an anonymous listener to its output
+		Queue queue = new Queue(new PipeListener(this));
+
+		// begin sort-by-priority order mode
+		boolean sortWritten = queue.write(new QueueControlMessage(QueueControlMessage.SORT));
+
+		// write messages to the queue
+		queue.write(low1);
+		queue.write(high1);
+		queue.write(med1);
+		queue.write(low2);
+		queue.write(med2);
+		queue.write(high2);
+
+		// test that no messages were received (they've been enqueued)
+		Assert.assertEquals("Expecting received 0 messages", messagesReceived.size(), 0);
+
+		// flush the queue
+		boolean flushWritten = queue.write(new QueueControlMessage(QueueControlMessage.FLUSH));
+
+		// test assertions
+		Assert.assertTrue("Expecting wrote sort message to queue", sortWritten);
+		Assert.assertTrue("Expecting wrote flush message to queue", flushWritten);
+		Assert.assertEquals("Expecting received 6 messages", messagesReceived.size(), 6);
+
+		// test message order is by priority, then FIFO
+		Assert.assertEquals("Expecting recieved1 === high1", messagesReceived.get(0), high1); // object equality
+		Assert.assertEquals("Expecting recieved2 === high2", messagesReceived.get(1), high2); // object equality
+		Assert.assertEquals("Expecting recieved3 === med1", messagesReceived.get(2), med1); // object equality
+		Assert.assertEquals("Expecting recieved4 === med2", messagesReceived.get(3), med2); // object equality
+		Assert.assertEquals("Expecting recieved5 === low1", messagesReceived.get(4), low1); // object equality
+		Assert.assertEquals("Expecting recieved6 === low2", messagesReceived.get(5), low2); // object equality
+	}
 }